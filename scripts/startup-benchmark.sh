@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful /api/games/organize response.
+# RAWG and Steam are replaced by static fixtures served locally, and the database URL points
+# at a closed port, so the numbers do not depend on network or Supabase latency.
+#
+# Build first with:  mvn -Paot-cds -DskipTests package
+# Usage:             scripts/startup-benchmark.sh [jar|aot|cds] [runs]
+
+set -euo pipefail
+
+MODE="${1:-cds}"
+RUNS="${2:-5}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+CDS_DIR="$ROOT_DIR/target/cds"
+FIXTURES_DIR="$ROOT_DIR/scripts/startup-benchmark"
+APP_PORT="${APP_PORT:-18080}"
+MOCK_PORT="${MOCK_PORT:-18089}"
+JAVA_BIN="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+JAR="$(ls "$CDS_DIR"/*-cds.jar 2>/dev/null | head -n 1 || true)"
+if [[ -z "$JAR" ]]; then
+    echo "Jar não encontrado em $CDS_DIR. Rode mvn -Paot-cds -DskipTests package antes." >&2
+    exit 1
+fi
+
+case "$MODE" in
+    jar) JVM_OPTS=() ;;
+    aot) JVM_OPTS=(-Dspring.aot.enabled=true) ;;
+    cds) JVM_OPTS=(-Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa) ;;
+    *) echo "Modo inválido: $MODE (use jar, aot ou cds)" >&2; exit 1 ;;
+esac
+
+python3 -m http.server "$MOCK_PORT" --bind 127.0.0.1 --directory "$FIXTURES_DIR" >/dev/null 2>&1 &
+MOCK_PID=$!
+APP_PID=""
+cleanup() {
+    [[ -n "$APP_PID" ]] && kill "$APP_PID" 2>/dev/null || true
+    kill "$MOCK_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+until curl -sf "http://127.0.0.1:$MOCK_PORT/games.json" >/dev/null; do sleep 0.1; done
+
+RESULTS=()
+for run in $(seq 1 "$RUNS"); do
+    START_NS=$(date +%s%N)
+    (cd "$CDS_DIR" && exec "$JAVA_BIN" "${JVM_OPTS[@]}" -jar "$(basename "$JAR")" \
+        --server.port="$APP_PORT" \
+        --rawg.api.url="http://127.0.0.1:$MOCK_PORT/games.json" \
+        --steam.api.url="http://127.0.0.1:$MOCK_PORT/appdetails.json" \
+        --spring.r2dbc.url="r2dbc:postgresql://127.0.0.1:1/benchmark" \
+        --logging.level.root=WARN) >/dev/null 2>&1 &
+    APP_PID=$!
+
+    until curl -sf "http://127.0.0.1:$APP_PORT/api/games/organize?name=witcher" | grep -q '"rawgId"'; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "A aplicação encerrou antes de responder (execução $run)" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    ELAPSED_MS=$(( ($(date +%s%N) - START_NS) / 1000000 ))
+    RESULTS+=("$ELAPSED_MS")
+    echo "[$MODE] execução $run: ${ELAPSED_MS} ms"
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+done
+
+MEDIAN=$(printf '%s\n' "${RESULTS[@]}" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }')
+echo "[$MODE] mediana de $RUNS execuções: ${MEDIAN} ms"
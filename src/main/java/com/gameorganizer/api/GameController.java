@@ -2,9 +2,11 @@ package com.gameorganizer.api;
 
 import com.gameorganizer.domain.GameService;
 import com.gameorganizer.api.dto.GameResponseDto;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Comparator;
@@ -13,6 +15,9 @@ import java.util.List;
 @RestController
 public class GameController {
 
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_PAGE = 1000;
+
     private final GameService service;
 
     public GameController(GameService service) {
@@ -20,10 +25,27 @@ public class GameController {
     }
 
     @GetMapping("/api/games/organize")
-    public Mono<List<GameResponseDto>> organize(@RequestParam("name") String name) {
-        return service.organizeByNameReactive(name)
+    public Mono<List<GameResponseDto>> organize(@RequestParam("name") String name,
+                                                @RequestParam(value = "page", defaultValue = "1") int page,
+                                                @RequestParam(value = "limit", defaultValue = "15") int limit) {
+        return service.organizeByNameReactive(name, clampPage(page), clampLimit(limit))
                 .sort(Comparator.comparingInt((GameResponseDto g) ->
                         g.getMetacritic() == null ? 0 : g.getMetacritic()).reversed())
                 .collectList();
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/api/games/organize/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<GameResponseDto> organizeStream(@RequestParam("name") String name,
+                                                @RequestParam(value = "page", defaultValue = "1") int page,
+                                                @RequestParam(value = "limit", defaultValue = "15") int limit) {
+        return service.streamUpdatesByNameReactive(name, clampPage(page), clampLimit(limit));
+    }
+
+    private static int clampPage(int page) {
+        return Math.min(Math.max(page, 1), MAX_PAGE);
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+}
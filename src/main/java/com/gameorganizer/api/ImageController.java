@@ -0,0 +1,58 @@
+package com.gameorganizer.api;
+
+import com.gameorganizer.infra.image.ThumbnailCache;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+public class ImageController {
+
+    private static final CacheControl THUMBNAIL_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ThumbnailCache thumbnailCache;
+
+    public ImageController(ThumbnailCache thumbnailCache) {
+        this.thumbnailCache = thumbnailCache;
+    }
+
+    @GetMapping("/thumbnail")
+    public Mono<ResponseEntity<Resource>> thumbnail(@RequestParam("url") String url,
+                                                    @RequestParam(value = "w", defaultValue = "320") int width,
+                                                    @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        if (!thumbnailCache.isAllowed(url)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Origem de imagem não permitida"));
+        }
+
+        String etag = thumbnailCache.etagFor(url, width);
+        if (etag.equals(ifNoneMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                    .build());
+        }
+
+        return thumbnailCache.getThumbnail(url, width)
+                .map(thumbnail -> ResponseEntity.ok()
+                        .eTag(thumbnail.etag())
+                        .cacheControl(THUMBNAIL_CACHE_CONTROL)
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .<Resource>body(new FileSystemResource(thumbnail.path())))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Falha ao gerar miniatura", e));
+    }
+}
@@ -1,5 +1,8 @@
 package com.gameorganizer.api;
 
+import com.gameorganizer.api.dto.LibraryStatsDto;
+import com.gameorganizer.domain.LibraryStatsService;
+import com.gameorganizer.domain.LibraryStatsService.Snapshot;
 import com.gameorganizer.domain.model.UserGame;
 import com.gameorganizer.domain.repository.UserGameRepository;
 import org.springframework.web.bind.annotation.*;
@@ -12,9 +15,11 @@ import java.util.List;
 public class LibraryController {
 
     private final UserGameRepository repository;
+    private final LibraryStatsService statsService;
 
-    public LibraryController(UserGameRepository repository) {
+    public LibraryController(UserGameRepository repository, LibraryStatsService statsService) {
         this.repository = repository;
+        this.statsService = statsService;
     }
 
     @GetMapping
@@ -22,20 +27,31 @@ public class LibraryController {
         return repository.findAll();
     }
 
+    @GetMapping("/stats")
+    public Mono<LibraryStatsDto> getStats() {
+        return Mono.fromSupplier(statsService::getStats);
+    }
+
     @PostMapping
     public Mono<UserGame> addToLibrary(@RequestBody UserGame game) {
         return repository.findByRawgId(game.getRawgId())
                 .flatMap(existingGame -> {
+                    Snapshot before = Snapshot.of(existingGame);
                     existingGame.setGameStatus(game.getGameStatus());
                     existingGame.setRating(game.getRating());
-                    return repository.save(existingGame);
+                    return statsService.trackChange(repository.save(existingGame)
+                            .doOnNext(saved -> statsService.recordChange(before, Snapshot.of(saved))));
                 })
-                .switchIfEmpty(repository.save(game));
+                .switchIfEmpty(statsService.trackChange(repository.save(game)
+                        .doOnNext(saved -> statsService.recordChange(null, Snapshot.of(saved)))));
     }
 
     @DeleteMapping("/{id}")
     public Mono<Void> removeFromLibrary(@PathVariable("id") Long id) {
-        return repository.deleteById(id);
+        return repository.findById(id)
+                .flatMap(game -> statsService.trackChange(repository.deleteById(id)
+                        .then(Mono.fromRunnable(() -> statsService.recordChange(Snapshot.of(game), null)))))
+                .then();
     }
     @PostMapping("/reorder")
     public Mono<Void> reorderLibrary(@RequestBody List<Long> orderedIds) {
@@ -52,4 +68,4 @@ public class LibraryController {
                 })
                 .then();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.gameorganizer.api.dto;
+
+import java.util.Map;
+
+public class LibraryStatsDto {
+    private long totalGames;
+    private Map<String, Long> countsByStatus;
+    private Double averageRating;
+    private Map<String, Double> averageRatingByGenre;
+    private Map<Integer, Long> ratingHistogram;
+    private Map<String, Long> topGenres;
+
+    public long getTotalGames() { return totalGames; }
+    public void setTotalGames(long totalGames) { this.totalGames = totalGames; }
+    public Map<String, Long> getCountsByStatus() { return countsByStatus; }
+    public void setCountsByStatus(Map<String, Long> countsByStatus) { this.countsByStatus = countsByStatus; }
+    public Double getAverageRating() { return averageRating; }
+    public void setAverageRating(Double averageRating) { this.averageRating = averageRating; }
+    public Map<String, Double> getAverageRatingByGenre() { return averageRatingByGenre; }
+    public void setAverageRatingByGenre(Map<String, Double> averageRatingByGenre) { this.averageRatingByGenre = averageRatingByGenre; }
+    public Map<Integer, Long> getRatingHistogram() { return ratingHistogram; }
+    public void setRatingHistogram(Map<Integer, Long> ratingHistogram) { this.ratingHistogram = ratingHistogram; }
+    public Map<String, Long> getTopGenres() { return topGenres; }
+    public void setTopGenres(Map<String, Long> topGenres) { this.topGenres = topGenres; }
+}
@@ -0,0 +1,121 @@
+package com.gameorganizer.domain;
+
+import com.gameorganizer.domain.model.Game;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+final class GameSearchMerger {
+
+    record RankedGame(int rank, Game game) {}
+
+    record MergedGame(int slot, Game game) {}
+
+    private final int limit;
+    private final int secondaryQuota;
+    private final Map<Integer, Entry> byRawgId = new HashMap<>();
+    private final Map<Integer, Entry> bySteamAppId = new HashMap<>();
+    private final Map<String, Entry> byTitle = new HashMap<>();
+    private int slots;
+    private int secondarySlots;
+
+    GameSearchMerger(int limit, int secondaryQuota) {
+        this.limit = limit;
+        this.secondaryQuota = secondaryQuota;
+    }
+
+    Optional<MergedGame> accept(RankedGame rankedGame) {
+        Game game = rankedGame.game();
+        String title = normalizeTitle(game.name());
+
+        Entry entry = find(game, title);
+        if (entry == null) {
+            entry = new Entry();
+        }
+
+        Game previous = entry.merged;
+        entry.add(rankedGame);
+        index(entry, title);
+
+        boolean admitted = entry.slot == null && admit(entry, rankedGame.rank());
+        if (entry.slot == null || (!admitted && entry.merged.equals(previous))) {
+            return Optional.empty();
+        }
+        return Optional.of(new MergedGame(entry.slot, entry.merged));
+    }
+
+    private boolean admit(Entry entry, int rank) {
+        if (slots >= limit) return false;
+        if (rank > 0) {
+            if (secondarySlots >= secondaryQuota) return false;
+            secondarySlots++;
+        }
+        entry.slot = slots++;
+        return true;
+    }
+
+    static String normalizeTitle(String title) {
+        if (title == null) return null;
+        String normalized = Normalizer.normalize(title, Normalizer.Form.NFD)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{Nd}]", "");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private Entry find(Game game, String title) {
+        Entry entry = null;
+        if (game.id() != null) entry = byRawgId.get(game.id());
+        if (entry == null && game.steamAppId() != null) entry = bySteamAppId.get(game.steamAppId());
+        if (entry == null && title != null) {
+            Entry candidate = byTitle.get(title);
+            if (candidate != null && sameOrUnknownId(candidate.merged.id(), game.id())) {
+                entry = candidate;
+            }
+        }
+        return entry;
+    }
+
+    private void index(Entry entry, String title) {
+        if (entry.merged.id() != null) byRawgId.putIfAbsent(entry.merged.id(), entry);
+        if (entry.merged.steamAppId() != null) bySteamAppId.putIfAbsent(entry.merged.steamAppId(), entry);
+        if (title != null) byTitle.putIfAbsent(title, entry);
+    }
+
+    private static boolean sameOrUnknownId(Integer a, Integer b) {
+        return a == null || b == null || a.equals(b);
+    }
+
+    private static Game mergeFields(Game preferred, Game other) {
+        return new Game(
+                preferred.id() != null ? preferred.id() : other.id(),
+                preferred.name() != null ? preferred.name() : other.name(),
+                preferred.metacritic() != null ? preferred.metacritic() : other.metacritic(),
+                preferred.releaseYear() != null ? preferred.releaseYear() : other.releaseYear(),
+                preferred.backgroundImage() != null ? preferred.backgroundImage() : other.backgroundImage(),
+                preferred.genres() != null && !preferred.genres().isEmpty() ? preferred.genres() : other.genres(),
+                preferred.steamUrl() != null ? preferred.steamUrl() : other.steamUrl(),
+                preferred.steamAppId() != null ? preferred.steamAppId() : other.steamAppId()
+        );
+    }
+
+    private static final class Entry {
+        private final List<RankedGame> sources = new ArrayList<>();
+        private Integer slot;
+        private Game merged;
+
+        private void add(RankedGame rankedGame) {
+            sources.add(rankedGame);
+            sources.sort(Comparator.comparingInt(RankedGame::rank));
+            merged = sources.stream()
+                    .map(RankedGame::game)
+                    .reduce(GameSearchMerger::mergeFields)
+                    .orElseThrow();
+        }
+    }
+}
@@ -1,27 +1,84 @@
 package com.gameorganizer.domain;
 
 import com.gameorganizer.api.dto.GameResponseDto;
+import com.gameorganizer.domain.GameSearchMerger.MergedGame;
+import com.gameorganizer.domain.GameSearchMerger.RankedGame;
 import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.port.GameCatalogPort;
 import com.gameorganizer.domain.port.GameEnrichmentPort;
 import com.gameorganizer.domain.port.GameSearchPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class GameService {
 
-    private final GameSearchPort searchPort;
+    private static final Logger log = LoggerFactory.getLogger(GameService.class);
+    private static final int DEFAULT_LIMIT = 15;
+
+    private final List<GameSearchPort> searchPorts;
     private final GameEnrichmentPort enrichmentPort;
+    private final GameCatalogPort catalogPort;
+    private final int localQuota;
 
-    public GameService(GameSearchPort searchPort, GameEnrichmentPort enrichmentPort) {
-        this.searchPort = searchPort;
+    public GameService(List<GameSearchPort> searchPorts, GameEnrichmentPort enrichmentPort, GameCatalogPort catalogPort,
+                       @Value("${search.local-quota:3}") int localQuota) {
+        this.searchPorts = searchPorts;
         this.enrichmentPort = enrichmentPort;
+        this.catalogPort = catalogPort;
+        this.localQuota = localQuota;
     }
 
     public Flux<GameResponseDto> organizeByNameReactive(String name) {
-        return searchPort.searchGamesByName(name)
-                .flatMap(this::enrichGameData);
+        return organizeByNameReactive(name, 1, DEFAULT_LIMIT);
+    }
+
+    public Flux<GameResponseDto> organizeByNameReactive(String name, int page, int limit) {
+        return streamByNameReactive(name, page, limit)
+                .collectMap(SlottedResponse::slot, SlottedResponse::response, LinkedHashMap::new)
+                .flatMapIterable(Map::values);
+    }
+
+    public Flux<GameResponseDto> streamUpdatesByNameReactive(String name, int page, int limit) {
+        return streamByNameReactive(name, page, limit)
+                .map(SlottedResponse::response);
+    }
+
+    private Flux<SlottedResponse> streamByNameReactive(String name, int page, int limit) {
+        return searchAllSources(name, page, limit)
+                .doOnNext(merged -> catalogPort.remember(merged.game()))
+                .groupBy(MergedGame::slot)
+                .flatMap(versions -> versions.switchMap(merged -> enrichGameData(merged.game())
+                                .map(response -> new SlottedResponse(merged.slot(), response))),
+                        Integer.MAX_VALUE);
+    }
+
+    private Flux<MergedGame> searchAllSources(String name, int page, int limit) {
+        return Flux.defer(() -> {
+            GameSearchMerger merger = new GameSearchMerger(limit, page == 1 ? localQuota : 0);
+            return Flux.range(0, searchPorts.size())
+                    .flatMap(rank -> searchSource(rank, name, page, limit))
+                    .concatMapIterable(ranked -> merger.accept(ranked).stream().toList());
+        });
+    }
+
+    private Flux<RankedGame> searchSource(int rank, String name, int page, int limit) {
+        GameSearchPort port = searchPorts.get(rank);
+        return Flux.defer(() -> port.searchGamesByName(name, rank == 0 ? page : 1, limit))
+                .take(port.timeout())
+                .map(game -> new RankedGame(rank, game))
+                .onErrorResume(e -> {
+                    log.error("Falha na fonte de busca {} para '{}': {}", port.getClass().getSimpleName(), name, e.getMessage());
+                    return Flux.empty();
+                });
     }
 
     private Mono<GameResponseDto> enrichGameData(Game game) {
@@ -41,4 +98,6 @@ public class GameService {
         dto.setSteamAppid(game.steamAppId());
         return dto;
     }
-}
\ No newline at end of file
+
+    private record SlottedResponse(int slot, GameResponseDto response) {}
+}
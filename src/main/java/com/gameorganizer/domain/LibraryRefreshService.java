@@ -0,0 +1,176 @@
+package com.gameorganizer.domain;
+
+import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.model.JobCheckpoint;
+import com.gameorganizer.domain.model.UserGame;
+import com.gameorganizer.domain.port.GameSearchPort;
+import com.gameorganizer.domain.repository.JobCheckpointRepository;
+import com.gameorganizer.domain.repository.UserGameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class LibraryRefreshService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibraryRefreshService.class);
+    private static final String CHECKPOINT_NAME = "library-refresh";
+
+    private final UserGameRepository repository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final GameSearchPort searchPort;
+    private final LibraryStatsService statsService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration requestInterval;
+    private final boolean enabled;
+
+    private final AtomicLong checkpoint = new AtomicLong(0);
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LibraryRefreshService(UserGameRepository repository,
+                                 JobCheckpointRepository checkpointRepository,
+                                 GameSearchPort searchPort,
+                                 LibraryStatsService statsService,
+                                 @Value("${library.refresh.batch-size:50}") int batchSize,
+                                 @Value("${library.refresh.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${library.refresh.request-interval:2s}") Duration requestInterval,
+                                 @Value("${library.refresh.enabled:false}") boolean enabled) {
+        this.repository = repository;
+        this.checkpointRepository = checkpointRepository;
+        this.searchPort = searchPort;
+        this.statsService = statsService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.requestInterval = requestInterval;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${library.refresh.cron:0 0 4 * * *}")
+    public Mono<Void> scheduledRefresh() {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return refresh()
+                .doOnNext(updated -> log.info("Atualização da biblioteca concluída: {} jogo(s) alterado(s), checkpoint em {}",
+                        updated, checkpoint.get()))
+                .then();
+    }
+
+    public Mono<Integer> refresh() {
+        return Mono.defer(() -> {
+            if (!running.compareAndSet(false, true)) {
+                log.warn("Atualização da biblioteca já em andamento, ignorando execução");
+                return Mono.just(0);
+            }
+
+            return loadCheckpoint()
+                    .thenMany(Flux.range(0, maxBatchesPerRun))
+                    .concatMap(i -> refreshNextBatch())
+                    .takeUntil(result -> result.scanned() < batchSize)
+                    .reduce(0, (total, result) -> total + result.updated())
+                    .doFinally(signal -> running.set(false));
+        });
+    }
+
+    public long getCheckpoint() {
+        return checkpoint.get();
+    }
+
+    private Mono<BatchResult> refreshNextBatch() {
+        return repository.findBatchAfter(checkpoint.get(), batchSize)
+                .collectList()
+                .flatMap(batch -> refreshBatch(batch)
+                        .map(updated -> {
+                            if (batch.size() < batchSize) {
+                                checkpoint.set(0);
+                            } else {
+                                checkpoint.set(batch.get(batch.size() - 1).getId());
+                            }
+                            return new BatchResult(batch.size(), updated);
+                        }))
+                .flatMap(result -> saveCheckpoint().thenReturn(result));
+    }
+
+    private Mono<Void> loadCheckpoint() {
+        return checkpointRepository.findById(CHECKPOINT_NAME)
+                .map(JobCheckpoint::getLastId)
+                .doOnNext(checkpoint::set)
+                .onErrorResume(e -> {
+                    log.warn("Não foi possível ler o checkpoint da atualização, continuando de {}: {}",
+                            checkpoint.get(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> saveCheckpoint() {
+        return checkpointRepository.saveLastId(CHECKPOINT_NAME, checkpoint.get())
+                .onErrorResume(e -> {
+                    log.warn("Não foi possível gravar o checkpoint da atualização em {}: {}",
+                            checkpoint.get(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Integer> refreshBatch(List<UserGame> batch) {
+        return Flux.fromIterable(batch)
+                .filter(userGame -> userGame.getRawgId() != null)
+                .delayElements(requestInterval)
+                .concatMap(this::refreshGame)
+                .reduce(0, Integer::sum);
+    }
+
+    private Mono<Integer> refreshGame(UserGame userGame) {
+        LibraryStatsService.Snapshot before = LibraryStatsService.Snapshot.of(userGame);
+        return searchPort.findGameById(userGame.getRawgId())
+                .filter(game -> applyChanges(userGame, game))
+                .flatMap(game -> statsService.trackChange(repository.updateMetadata(
+                                userGame.getId(), userGame.getTitle(), userGame.getImageUrl(), userGame.getGenres())
+                        .map(rows -> {
+                            if (rows == 0) return 0;
+                            statsService.recordChange(before, LibraryStatsService.Snapshot.of(userGame));
+                            return 1;
+                        })))
+                .defaultIfEmpty(0)
+                .onErrorResume(e -> {
+                    log.error("Falha ao atualizar o jogo {} da biblioteca: {}", userGame.getRawgId(), e.getMessage());
+                    return Mono.just(0);
+                });
+    }
+
+    private boolean applyChanges(UserGame userGame, Game game) {
+        boolean changed = false;
+
+        if (game.name() != null && !Objects.equals(game.name(), userGame.getTitle())) {
+            userGame.setTitle(game.name());
+            changed = true;
+        }
+        if (game.backgroundImage() != null && !Objects.equals(game.backgroundImage(), userGame.getImageUrl())) {
+            userGame.setImageUrl(game.backgroundImage());
+            changed = true;
+        }
+        if (game.genres() != null && !game.genres().isEmpty()) {
+            String genres = UserGame.formatGenres(game.genres());
+            if (!Objects.equals(genres, userGame.getGenres())) {
+                userGame.setGenres(genres);
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    private record BatchResult(int scanned, int updated) {}
+}
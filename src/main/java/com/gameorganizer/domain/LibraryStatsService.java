@@ -0,0 +1,211 @@
+package com.gameorganizer.domain;
+
+import com.gameorganizer.api.dto.LibraryStatsDto;
+import com.gameorganizer.domain.model.GenreRatingCount;
+import com.gameorganizer.domain.model.StatusRatingCount;
+import com.gameorganizer.domain.model.UserGame;
+import com.gameorganizer.domain.repository.UserGameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+public class LibraryStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibraryStatsService.class);
+    private static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private final UserGameRepository repository;
+    private final int topGenresLimit;
+    private final boolean reconcileEnabled;
+
+    private Aggregate aggregate = new Aggregate();
+    private long mutations;
+    private int writesInFlight;
+
+    public LibraryStatsService(UserGameRepository repository,
+                               @Value("${library.stats.top-genres:5}") int topGenresLimit,
+                               @Value("${library.stats.reconcile-enabled:true}") boolean reconcileEnabled) {
+        this.repository = repository;
+        this.topGenresLimit = topGenresLimit;
+        this.reconcileEnabled = reconcileEnabled;
+    }
+
+    public record Snapshot(String status, int rating, Set<String> genres) {
+        public static Snapshot of(UserGame game) {
+            return new Snapshot(
+                    game.getGameStatus() == null ? UNKNOWN_STATUS : game.getGameStatus(),
+                    game.getRating() == null ? 0 : game.getRating(),
+                    Set.copyOf(UserGame.parseGenres(game.getGenres()))
+            );
+        }
+    }
+
+    public synchronized void recordChange(Snapshot before, Snapshot after) {
+        mutations++;
+        if (before != null) aggregate.apply(before, -1);
+        if (after != null) aggregate.apply(after, 1);
+    }
+
+    public <T> Mono<T> trackChange(Mono<T> write) {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                mutations++;
+                writesInFlight++;
+            }
+            return write.doFinally(signal -> {
+                synchronized (this) {
+                    mutations++;
+                    writesInFlight--;
+                }
+            });
+        });
+    }
+
+    public synchronized LibraryStatsDto getStats() {
+        return aggregate.toDto(topGenresLimit);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${library.stats.reconcile-interval:PT10M}")
+    public Mono<Void> scheduledReconcile() {
+        return reconcileEnabled ? reconcile() : Mono.empty();
+    }
+
+    public Mono<Void> reconcile() {
+        return Mono.defer(() -> {
+            long startedAt;
+            boolean quiet;
+            synchronized (this) {
+                startedAt = mutations;
+                quiet = writesInFlight == 0;
+            }
+            return reconcileFrom(startedAt, quiet);
+        });
+    }
+
+    private Mono<Void> reconcileFrom(long startedAt, boolean quiet) {
+        Mono<Map<CountKey, Long>> byStatus = repository.countByStatusAndRating()
+                .collectMap(row -> new CountKey(row.status() == null ? UNKNOWN_STATUS : row.status(), ratingOf(row.rating())),
+                        StatusRatingCount::total,
+                        HashMap::new);
+        Mono<Map<CountKey, Long>> byGenre = repository.countByGenreAndRating()
+                .filter(row -> row.genre() != null && !row.genre().isBlank())
+                .collectMap(row -> new CountKey(row.genre(), ratingOf(row.rating())),
+                        GenreRatingCount::total,
+                        HashMap::new);
+
+        return Mono.zipDelayError(byStatus, byGenre)
+                .doOnNext(tuple -> {
+                    Aggregate seeded = Aggregate.seed(tuple.getT1(), tuple.getT2());
+                    synchronized (this) {
+                        if (!quiet || mutations != startedAt) {
+                            log.debug("Reconciliação das estatísticas adiada: a biblioteca mudou durante a consulta");
+                            return;
+                        }
+                        aggregate = seeded;
+                    }
+                    log.debug("Estatísticas da biblioteca reconciliadas: {} jogo(s)", seeded.total);
+                })
+                .then()
+                .onErrorResume(e -> {
+                    log.error("Falha ao reconciliar estatísticas da biblioteca: {}", Exceptions.unwrapMultiple(e).stream()
+                            .map(Throwable::getMessage)
+                            .distinct()
+                            .collect(Collectors.joining("; ")));
+                    return Mono.empty();
+                });
+    }
+
+    private static int ratingOf(Integer rating) {
+        return rating == null ? 0 : rating;
+    }
+
+    private record CountKey(String key, int rating) {}
+
+    private static final class RatingTotals {
+        private long games;
+        private long rated;
+        private long ratingSum;
+
+        private void add(int rating, long count) {
+            games += count;
+            if (rating > 0) {
+                rated += count;
+                ratingSum += rating * count;
+            }
+        }
+
+        private Double average() {
+            return rated == 0 ? null : (double) ratingSum / rated;
+        }
+    }
+
+    private static final class Aggregate {
+        private long total;
+        private final RatingTotals overall = new RatingTotals();
+        private final Map<String, Long> statusCounts = new HashMap<>();
+        private final Map<Integer, Long> ratingHistogram = new TreeMap<>();
+        private final Map<String, RatingTotals> genres = new HashMap<>();
+
+        private static Aggregate seed(Map<CountKey, Long> byStatus, Map<CountKey, Long> byGenre) {
+            Aggregate aggregate = new Aggregate();
+            byStatus.forEach((key, count) -> aggregate.addStatus(key.key(), key.rating(), count));
+            byGenre.forEach((key, count) -> aggregate.genres.computeIfAbsent(key.key(), g -> new RatingTotals())
+                    .add(key.rating(), count));
+            return aggregate;
+        }
+
+        private void apply(Snapshot snapshot, int sign) {
+            addStatus(snapshot.status(), snapshot.rating(), sign);
+            for (String genre : snapshot.genres()) {
+                RatingTotals totals = genres.computeIfAbsent(genre, g -> new RatingTotals());
+                totals.add(snapshot.rating(), sign);
+                if (totals.games <= 0) genres.remove(genre);
+            }
+        }
+
+        private void addStatus(String status, int rating, long count) {
+            total += count;
+            overall.add(rating, count);
+            statusCounts.merge(status, count, Long::sum);
+            statusCounts.values().removeIf(value -> value <= 0);
+            ratingHistogram.merge(rating, count, Long::sum);
+            ratingHistogram.values().removeIf(value -> value <= 0);
+        }
+
+        private LibraryStatsDto toDto(int topGenresLimit) {
+            LibraryStatsDto dto = new LibraryStatsDto();
+            dto.setTotalGames(total);
+            dto.setCountsByStatus(new TreeMap<>(statusCounts));
+            dto.setAverageRating(overall.average());
+            dto.setRatingHistogram(new TreeMap<>(ratingHistogram));
+
+            Map<String, Double> averageByGenre = new TreeMap<>();
+            genres.forEach((genre, totals) -> {
+                Double average = totals.average();
+                if (average != null) averageByGenre.put(genre, average);
+            });
+            dto.setAverageRatingByGenre(averageByGenre);
+
+            dto.setTopGenres(genres.entrySet().stream()
+                    .sorted(Map.Entry.<String, RatingTotals>comparingByValue(
+                                    (a, b) -> Long.compare(b.games, a.games))
+                            .thenComparing(Map.Entry.<String, RatingTotals>comparingByKey()))
+                    .limit(topGenresLimit)
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().games,
+                            (a, b) -> a, LinkedHashMap::new)));
+            return dto;
+        }
+    }
+}
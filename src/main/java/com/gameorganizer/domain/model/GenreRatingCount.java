@@ -0,0 +1,3 @@
+package com.gameorganizer.domain.model;
+
+public record GenreRatingCount(String genre, Integer rating, Long total) {}
@@ -0,0 +1,20 @@
+package com.gameorganizer.domain.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("job_checkpoints")
+public class JobCheckpoint {
+    @Id
+    private String name;
+
+    @Column("last_id")
+    private Long lastId;
+
+    public JobCheckpoint() {}
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public Long getLastId() { return lastId; }
+    public void setLastId(Long lastId) { this.lastId = lastId; }
+}
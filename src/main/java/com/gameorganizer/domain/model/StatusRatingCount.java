@@ -0,0 +1,3 @@
+package com.gameorganizer.domain.model;
+
+public record StatusRatingCount(String status, Integer rating, Long total) {}
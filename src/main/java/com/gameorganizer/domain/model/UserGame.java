@@ -4,6 +4,9 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.mapping.Column;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Table("user_games")
 public class UserGame {
     @Id
@@ -45,4 +48,16 @@ public class UserGame {
     public void setRating(Integer rating) { this.rating = rating; }
     public Integer getListOrder() { return listOrder == null ? 9999 : listOrder; }
     public void setListOrder(Integer listOrder) { this.listOrder = listOrder; }
-}
\ No newline at end of file
+
+    public static List<String> parseGenres(String genres) {
+        if (genres == null || genres.isBlank()) return List.of();
+        return Arrays.stream(genres.split(","))
+                .map(String::trim)
+                .filter(genre -> !genre.isEmpty())
+                .toList();
+    }
+
+    public static String formatGenres(List<String> genres) {
+        return String.join(", ", genres);
+    }
+}
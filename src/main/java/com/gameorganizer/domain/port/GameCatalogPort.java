@@ -0,0 +1,7 @@
+package com.gameorganizer.domain.port;
+
+import com.gameorganizer.domain.model.Game;
+
+public interface GameCatalogPort {
+    void remember(Game game);
+}
@@ -1,7 +1,22 @@
 package com.gameorganizer.domain.port;
 import com.gameorganizer.domain.model.Game;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 public interface GameSearchPort {
     Flux<Game> searchGamesByName(String name);
-}
\ No newline at end of file
+
+    default Flux<Game> searchGamesByName(String name, int page, int limit) {
+        return searchGamesByName(name)
+                .skip((long) (page - 1) * limit)
+                .take(limit);
+    }
+
+    Mono<Game> findGameById(Integer id);
+
+    default Duration timeout() {
+        return Duration.ofSeconds(5);
+    }
+}
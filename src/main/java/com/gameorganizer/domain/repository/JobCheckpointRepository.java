@@ -0,0 +1,18 @@
+package com.gameorganizer.domain.repository;
+
+import com.gameorganizer.domain.model.JobCheckpoint;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface JobCheckpointRepository extends ReactiveCrudRepository<JobCheckpoint, String> {
+
+    @Modifying
+    @Query("INSERT INTO job_checkpoints (name, last_id) VALUES (:name, :lastId) " +
+            "ON CONFLICT (name) DO UPDATE SET last_id = EXCLUDED.last_id")
+    Mono<Integer> saveLastId(@Param("name") String name, @Param("lastId") Long lastId);
+}
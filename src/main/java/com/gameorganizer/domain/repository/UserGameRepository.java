@@ -1,6 +1,11 @@
 package com.gameorganizer.domain.repository;
 
+import com.gameorganizer.domain.model.GenreRatingCount;
+import com.gameorganizer.domain.model.StatusRatingCount;
 import com.gameorganizer.domain.model.UserGame;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -10,4 +15,21 @@ import reactor.core.publisher.Mono;
 public interface UserGameRepository extends ReactiveCrudRepository<UserGame, Long> {
     Mono<UserGame> findByRawgId(Integer rawgId);
     Flux<UserGame> findByGameStatus(String gameStatus);
-}
\ No newline at end of file
+    Flux<UserGame> findByTitleContainingIgnoreCase(String title);
+
+    @Query("SELECT * FROM user_games WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<UserGame> findBatchAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE user_games SET title = :title, image_url = :imageUrl, genres = :genres WHERE id = :id")
+    Mono<Integer> updateMetadata(@Param("id") Long id, @Param("title") String title,
+                                 @Param("imageUrl") String imageUrl, @Param("genres") String genres);
+
+    @Query("SELECT game_status AS status, rating, COUNT(*) AS total FROM user_games GROUP BY game_status, rating")
+    Flux<StatusRatingCount> countByStatusAndRating();
+
+    @Query("SELECT TRIM(g) AS genre, rating, COUNT(*) AS total " +
+            "FROM user_games CROSS JOIN unnest(string_to_array(genres, ',')) AS g " +
+            "GROUP BY TRIM(g), rating")
+    Flux<GenreRatingCount> countByGenreAndRating();
+}
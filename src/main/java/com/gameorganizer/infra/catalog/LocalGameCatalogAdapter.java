@@ -0,0 +1,87 @@
+package com.gameorganizer.infra.catalog;
+
+import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.port.GameCatalogPort;
+import com.gameorganizer.domain.port.GameSearchPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+@Order(1)
+public class LocalGameCatalogAdapter implements GameSearchPort, GameCatalogPort {
+
+    private static final int MAX_RESULTS = 20;
+
+    private final Map<Integer, Game> games;
+    private final Duration timeout;
+
+    public LocalGameCatalogAdapter(@Value("${search.catalog.max-size:5000}") int maxSize,
+                                   @Value("${search.timeout.catalog:300ms}") Duration timeout) {
+        this.games = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Game> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Flux<Game> searchGamesByName(String name) {
+        if (name == null || name.isBlank()) {
+            return Flux.empty();
+        }
+        String query = name.trim().toLowerCase(Locale.ROOT);
+        List<Game> matches;
+        synchronized (games) {
+            matches = games.values().stream()
+                    .filter(game -> game.name() != null && game.name().toLowerCase(Locale.ROOT).contains(query))
+                    .sorted(Comparator.comparingInt((Game game) -> relevance(game.name(), query))
+                            .thenComparingInt(game -> game.name().length())
+                            .thenComparing(Game::name))
+                    .limit(MAX_RESULTS)
+                    .toList();
+        }
+        return Flux.fromIterable(matches);
+    }
+
+    private static int relevance(String name, String query) {
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        if (lowerName.equals(query)) return 0;
+        if (lowerName.startsWith(query)) return 1;
+        if (lowerName.contains(" " + query)) return 2;
+        return 3;
+    }
+
+    @Override
+    public Mono<Game> findGameById(Integer id) {
+        synchronized (games) {
+            return Mono.justOrEmpty(games.get(id));
+        }
+    }
+
+    @Override
+    public Duration timeout() {
+        return timeout;
+    }
+
+    @Override
+    public void remember(Game game) {
+        if (game.id() == null) {
+            return;
+        }
+        synchronized (games) {
+            games.put(game.id(), game);
+        }
+    }
+}
@@ -7,14 +7,18 @@ import com.gameorganizer.infra.client.rawg.dto.RawgSearchResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -22,45 +26,116 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Service
+@Primary
+@Order(0)
 @Profile("!mock-search")
 public class RawgAdapter implements GameSearchPort {
 
     private static final Logger log = LoggerFactory.getLogger(RawgAdapter.class);
-    private static final String RAWG_API_URL = "https://api.rawg.io/api/games";
+    private static final int DEFAULT_LIMIT = 15;
     private static final Pattern STEAM_APP_PATTERN = Pattern.compile("store.steampowered.com/app/(\\d+)");
 
     private final WebClient webClient;
+    private final String rawgApiUrl;
     private final String rawgApiKey;
-
-    public RawgAdapter(WebClient webClient, @Value("${rawg.api.key:}") String rawgApiKey) {
+    private final Duration timeout;
+    private final int maxPageSize;
+    private final int maxPages;
+    private final int prefetchPages;
+
+    public RawgAdapter(WebClient webClient,
+                       @Value("${rawg.api.url:https://api.rawg.io/api/games}") String rawgApiUrl,
+                       @Value("${rawg.api.key:}") String rawgApiKey,
+                       @Value("${search.timeout.rawg:3s}") Duration timeout,
+                       @Value("${rawg.search.max-page-size:40}") int maxPageSize,
+                       @Value("${rawg.search.max-pages:4}") int maxPages,
+                       @Value("${rawg.search.prefetch-pages:2}") int prefetchPages) {
         this.webClient = webClient;
+        this.rawgApiUrl = rawgApiUrl;
         this.rawgApiKey = rawgApiKey;
+        this.timeout = timeout;
+        this.maxPageSize = maxPageSize;
+        this.maxPages = maxPages;
+        this.prefetchPages = prefetchPages;
     }
 
     @Override
     public Flux<Game> searchGamesByName(String name) {
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(RAWG_API_URL)
-                .queryParam("search", urlEncode(name))
-                .queryParam("page_size", 15);
+        return searchGamesByName(name, 1, DEFAULT_LIMIT);
+    }
 
-        if (rawgApiKey != null && !rawgApiKey.isEmpty()) {
-            uriBuilder.queryParam("key", rawgApiKey);
-        }
+    @Override
+    public Flux<Game> searchGamesByName(String name, int page, int limit) {
+        return Flux.defer(() -> {
+            int pageSize = Math.min(limit, maxPageSize);
+            long offset = (long) (page - 1) * limit;
+            long firstPage = offset / pageSize + 1;
+            int skip = (int) (offset % pageSize);
+            int cappedLimit = Math.min(limit, maxPages * pageSize - skip);
+            int pages = (skip + cappedLimit + pageSize - 1) / pageSize;
+
+            if (firstPage + pages - 1 > Integer.MAX_VALUE) {
+                log.warn("Página {} fora do intervalo suportado pela RAWG para '{}'", page, name);
+                return Flux.empty();
+            }
+
+            return Flux.range((int) firstPage, pages)
+                    .flatMapSequential(p -> fetchPage(name, p, pageSize), prefetchPages)
+                    .takeUntil(PageResult::last)
+                    .flatMapIterable(PageResult::results)
+                    .map(this::toDomainModel)
+                    .skip(skip)
+                    .take(cappedLimit);
+        });
+    }
+
+    @Override
+    public Mono<Game> findGameById(Integer id) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(rawgApiUrl)
+                .pathSegment(String.valueOf(id));
 
         return webClient.get()
-                .uri(uriBuilder.toUriString())
+                .uri(withApiKey(uriBuilder).toUriString())
                 .retrieve()
-                .bodyToMono(RawgSearchResponse.class)
-                .flatMapMany(response -> Flux.fromIterable(
-                        Optional.ofNullable(response.results).orElse(Collections.emptyList())
-                ))
+                .bodyToMono(RawgResult.class)
                 .map(this::toDomainModel)
                 .onErrorResume(e -> {
-                    log.error("Erro ao chamar a API da RAWG para '{}': {}", name, e.getMessage());
-                    return Flux.empty();
+                    log.error("Erro ao buscar o jogo {} na RAWG: {}", id, e.getMessage());
+                    return Mono.empty();
                 });
     }
 
+    private Mono<PageResult> fetchPage(String name, int page, int pageSize) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(rawgApiUrl)
+                .queryParam("search", urlEncode(name))
+                .queryParam("page_size", pageSize)
+                .queryParam("page", page);
+
+        return webClient.get()
+                .uri(withApiKey(uriBuilder).toUriString())
+                .retrieve()
+                .bodyToMono(RawgSearchResponse.class)
+                .map(response -> new PageResult(
+                        Optional.ofNullable(response.results).orElse(Collections.emptyList()),
+                        response.next == null))
+                .onErrorResume(e -> {
+                    log.error("Erro ao chamar a API da RAWG para '{}' (página {}): {}", name, page, e.getMessage());
+                    return Mono.just(new PageResult(Collections.emptyList(), true));
+                });
+    }
+
+    @Override
+    public Duration timeout() {
+        return timeout;
+    }
+
+    private UriComponentsBuilder withApiKey(UriComponentsBuilder uriBuilder) {
+        if (rawgApiKey != null && !rawgApiKey.isEmpty()) {
+            uriBuilder.queryParam("key", rawgApiKey);
+        }
+        return uriBuilder;
+    }
+
     private Game toDomainModel(RawgResult rawgResult) {
         List<String> genres = Optional.ofNullable(rawgResult.genres).orElse(Collections.emptyList())
                 .stream()
@@ -119,4 +194,6 @@ public class RawgAdapter implements GameSearchPort {
             return s;
         }
     }
-}
\ No newline at end of file
+
+    private record PageResult(List<RawgResult> results, boolean last) {}
+}
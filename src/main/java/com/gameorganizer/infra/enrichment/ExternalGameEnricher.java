@@ -9,6 +9,7 @@ import com.gameorganizer.infra.client.steam.dto.SteamAppDetails;
 import com.gameorganizer.infra.client.steam.dto.SteamAppDetailsData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
@@ -24,12 +25,14 @@ import java.util.Optional;
 public class ExternalGameEnricher implements GameEnrichmentPort {
 
     private static final Logger log = LoggerFactory.getLogger(ExternalGameEnricher.class);
-    private static final String STEAM_API_URL = "https://store.steampowered.com/api/appdetails";
 
     private final WebClient webClient;
+    private final String steamApiUrl;
 
-    public ExternalGameEnricher(WebClient webClient) {
+    public ExternalGameEnricher(WebClient webClient,
+                                @Value("${steam.api.url:https://store.steampowered.com/api/appdetails}") String steamApiUrl) {
         this.webClient = webClient;
+        this.steamApiUrl = steamApiUrl;
     }
 
     @Override
@@ -56,7 +59,7 @@ public class ExternalGameEnricher implements GameEnrichmentPort {
     }
 
     private Mono<SteamAppDetailsData> fetchSteamAppDetails(int appid) {
-        String url = UriComponentsBuilder.fromHttpUrl(STEAM_API_URL)
+        String url = UriComponentsBuilder.fromHttpUrl(steamApiUrl)
                 .queryParam("appids", appid)
                 .queryParam("l", "en")
                 .queryParam("cc", "us")
@@ -0,0 +1,5 @@
+package com.gameorganizer.infra.image;
+
+import java.nio.file.Path;
+
+public record Thumbnail(Path path, String etag) {}
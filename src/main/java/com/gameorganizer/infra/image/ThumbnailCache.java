@@ -0,0 +1,282 @@
+package com.gameorganizer.infra.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+public class ThumbnailCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailCache.class);
+    private static final int[] WIDTH_BUCKETS = {160, 320, 640};
+    private static final String EXTENSION = ".jpg";
+
+    private final WebClient webClient;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Set<String> allowedHosts;
+    private final long maxDownloadBytes;
+    private final long maxSourcePixels;
+    private final Duration evictionGrace;
+
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Mono<Path>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public ThumbnailCache(WebClient webClient,
+                          @Value("${images.cache.dir:${java.io.tmpdir}/game-organizer-thumbnails}") String cacheDir,
+                          @Value("${images.cache.max-bytes:268435456}") long maxBytes,
+                          @Value("${images.allowed-hosts:media.rawg.io,cdn.akamai.steamstatic.com,shared.akamai.steamstatic.com,cdn.cloudflare.steamstatic.com,steamcdn-a.akamaihd.net}") List<String> allowedHosts,
+                          @Value("${images.max-download-bytes:10485760}") long maxDownloadBytes,
+                          @Value("${images.max-source-pixels:40000000}") long maxSourcePixels,
+                          @Value("${images.cache.eviction-grace:30s}") Duration evictionGrace) {
+        this.webClient = webClient;
+        this.cacheDir = Path.of(cacheDir);
+        this.maxBytes = maxBytes;
+        this.allowedHosts = Set.copyOf(allowedHosts);
+        this.maxDownloadBytes = maxDownloadBytes;
+        this.maxSourcePixels = maxSourcePixels;
+        this.evictionGrace = evictionGrace;
+        loadExistingEntries();
+    }
+
+    public boolean isAllowed(String url) {
+        try {
+            URI uri = URI.create(url);
+            return ("https".equals(uri.getScheme()) || "http".equals(uri.getScheme()))
+                    && uri.getHost() != null
+                    && allowedHosts.contains(uri.getHost());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public String etagFor(String url, int width) {
+        return "\"" + keyFor(url, bucketFor(width)) + "\"";
+    }
+
+    public Mono<Thumbnail> getThumbnail(String url, int width) {
+        int bucket = bucketFor(width);
+        String key = keyFor(url, bucket);
+        String etag = "\"" + key + "\"";
+
+        synchronized (entries) {
+            Long size = entries.get(key);
+            if (size != null) {
+                if (Files.exists(pathFor(key))) {
+                    return Mono.just(new Thumbnail(pathFor(key), etag));
+                }
+                entries.remove(key);
+                totalBytes -= size;
+            }
+        }
+
+        return inFlight.computeIfAbsent(key, k -> generate(url, bucket, k)
+                        .doOnSuccess(path -> inFlight.remove(k))
+                        .doOnError(e -> inFlight.remove(k))
+                        .cache())
+                .map(path -> new Thumbnail(path, etag));
+    }
+
+    static int bucketFor(int width) {
+        for (int bucket : WIDTH_BUCKETS) {
+            if (width <= bucket) return bucket;
+        }
+        return WIDTH_BUCKETS[WIDTH_BUCKETS.length - 1];
+    }
+
+    private Mono<Path> generate(String url, int bucket, String key) {
+        return Mono.fromCallable(() -> {
+                    Files.createDirectories(cacheDir);
+                    return Files.createTempFile(cacheDir, key, ".download");
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(download -> {
+                    AtomicLong received = new AtomicLong();
+                    Flux<DataBuffer> body = webClient.get()
+                            .uri(URI.create(url))
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .<DataBuffer>handle((buffer, sink) -> {
+                                if (received.addAndGet(buffer.readableByteCount()) > maxDownloadBytes) {
+                                    DataBufferUtils.release(buffer);
+                                    sink.error(new IOException("Imagem excede o limite de " + maxDownloadBytes + " bytes"));
+                                } else {
+                                    sink.next(buffer);
+                                }
+                            });
+                    return DataBufferUtils.write(body, download)
+                            .then(Mono.fromCallable(() -> {
+                                        try {
+                                            return resize(download, bucket, key);
+                                        } finally {
+                                            deleteQuietly(download);
+                                        }
+                                    })
+                                    .subscribeOn(Schedulers.boundedElastic()))
+                            .doOnError(e -> deleteQuietly(download))
+                            .doOnCancel(() -> deleteQuietly(download));
+                });
+    }
+
+    private Path resize(Path source, int bucket, String key) throws IOException {
+        BufferedImage original = readImage(source);
+
+        int width = Math.min(bucket, original.getWidth());
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Path target = pathFor(key);
+        Path temp = Files.createTempFile(cacheDir, key, ".tmp");
+        try {
+            ImageIO.write(scaled, "jpg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(temp);
+        }
+
+        register(key, Files.size(target));
+        return target;
+    }
+
+    private BufferedImage readImage(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Formato de imagem não suportado");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxSourcePixels) {
+                    throw new IOException("Imagem excede o limite de " + maxSourcePixels + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void register(String key, long size) {
+        synchronized (entries) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous == null ? 0 : previous);
+
+            Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                if (entry.getKey().equals(key)) continue;
+                totalBytes -= entry.getValue();
+                eldest.remove();
+                evict(entry.getKey());
+            }
+        }
+    }
+
+    private void evict(String key) {
+        if (evictionGrace.isZero()) {
+            deleteQuietly(pathFor(key));
+            return;
+        }
+        Mono.delay(evictionGrace).subscribe(tick -> {
+            synchronized (entries) {
+                if (!entries.containsKey(key)) {
+                    deleteQuietly(pathFor(key));
+                }
+            }
+        });
+    }
+
+    private void loadExistingEntries() {
+        if (!Files.isDirectory(cacheDir)) return;
+
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            files.filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparingLong(this::lastAccess))
+                    .forEach(path -> {
+                        String fileName = path.getFileName().toString();
+                        try {
+                            register(fileName.substring(0, fileName.length() - EXTENSION.length()), Files.size(path));
+                        } catch (IOException e) {
+                            log.warn("Ignorando miniatura ilegível {}: {}", path, e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("Não foi possível ler o cache de miniaturas em {}: {}", cacheDir, e.getMessage());
+        }
+    }
+
+    private long lastAccess(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastAccessTime().toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private Path pathFor(String key) {
+        return cacheDir.resolve(key + EXTENSION);
+    }
+
+    private static String keyFor(String url, int bucket) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((bucket + "|" + url).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.gameorganizer.infra.library;
+
+import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.model.UserGame;
+import com.gameorganizer.domain.port.GameSearchPort;
+import com.gameorganizer.domain.repository.UserGameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Service
+@Order(2)
+public class LibraryGameSearchAdapter implements GameSearchPort {
+
+    private final UserGameRepository repository;
+    private final Duration timeout;
+
+    public LibraryGameSearchAdapter(UserGameRepository repository,
+                                    @Value("${search.timeout.library:500ms}") Duration timeout) {
+        this.repository = repository;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Flux<Game> searchGamesByName(String name) {
+        if (name == null || name.isBlank()) {
+            return Flux.empty();
+        }
+        return repository.findByTitleContainingIgnoreCase(name.trim())
+                .map(this::toDomainModel);
+    }
+
+    @Override
+    public Mono<Game> findGameById(Integer id) {
+        return repository.findByRawgId(id)
+                .map(this::toDomainModel);
+    }
+
+    @Override
+    public Duration timeout() {
+        return timeout;
+    }
+
+    private Game toDomainModel(UserGame userGame) {
+        return new Game(
+                userGame.getRawgId(),
+                userGame.getTitle(),
+                null,
+                null,
+                userGame.getImageUrl(),
+                UserGame.parseGenres(userGame.getGenres()),
+                null,
+                null
+        );
+    }
+}
@@ -2,20 +2,35 @@ package com.gameorganizer.infra.mock;
 
 import com.gameorganizer.domain.model.Game;
 import com.gameorganizer.domain.port.GameSearchPort;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 @Service
+@Primary
+@Order(0)
 @Profile("mock-search")
 public class MockGameSearchAdapter implements GameSearchPort {
 
     @Override
     public Flux<Game> searchGamesByName(String name) {
         System.out.println("--- USANDO MODO MOCK PARA BUSCA DE JOGOS ---");
+        return Flux.fromIterable(mockGames());
+    }
+
+    @Override
+    public Mono<Game> findGameById(Integer id) {
+        return Flux.fromIterable(mockGames())
+                .filter(game -> game.id().equals(id))
+                .next();
+    }
 
+    private List<Game> mockGames() {
         Game game1 = new Game(
                 1,
                 "The Witcher 3: Wild Hunt (Mock)",
@@ -38,6 +53,6 @@ public class MockGameSearchAdapter implements GameSearchPort {
                 1091500
         );
 
-        return Flux.fromIterable(List.of(game1, game2));
+        return List.of(game1, game2);
     }
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    name    VARCHAR(100) PRIMARY KEY,
+    last_id BIGINT       NOT NULL
+);
@@ -27,6 +27,11 @@ function switchTab(tab) {
     if (tab === 'library') loadLibrary();
 }
 
+function thumbnailUrl(url, width = 640) {
+    if (!url) return '';
+    return `/api/images/thumbnail?w=${width}&url=${encodeURIComponent(url)}`;
+}
+
 async function searchWeb() {
     const searchInput = document.getElementById('searchInput');
     const query = searchInput.value;
@@ -61,7 +66,7 @@ async function searchWeb() {
 
             el.innerHTML = `
                 <div class="thumb">
-                    <div class="thumb-image" style="background-image: url('${game.backgroundImage || ''}')"></div>
+                    <div class="thumb-image" style="background-image: url('${thumbnailUrl(game.backgroundImage)}')"></div>
                     ${metaBadge}
                 </div>
                 <div class="card-body">
@@ -225,7 +230,7 @@ function createGameCard(game) {
 
     el.innerHTML = `
         <div class="thumb">
-            <div class="thumb-image" style="background-image: url('${game.imageUrl || ''}')"></div>
+            <div class="thumb-image" style="background-image: url('${thumbnailUrl(game.imageUrl)}')"></div>
             ${starBadge}
         </div>
         <div class="card-body">
@@ -3,7 +3,7 @@ package com.gameorganizer;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "library.stats.reconcile-enabled=false")
 class GameOrganizerApplicationTests {
 
     @Test
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 
@@ -32,7 +33,7 @@ class GameControllerTest {
         GameResponseDto game2 = new GameResponseDto();
         game2.setName("Good Game");
         game2.setMetacritic(90);
-        given(gameService.organizeByNameReactive("game"))
+        given(gameService.organizeByNameReactive("game", 1, 15))
                 .willReturn(Flux.just(game1, game2));
         webTestClient.get()
                 .uri(uriBuilder -> uriBuilder.path("/api/games/organize")
@@ -46,4 +47,43 @@ class GameControllerTest {
                     assertEquals("Bad Game", list.get(1).getName());
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should forward paging parameters and stream results as NDJSON")
+    void shouldStreamPagedGames() {
+        GameResponseDto game = new GameResponseDto();
+        game.setName("Streamed Game");
+        given(gameService.streamUpdatesByNameReactive("game", 3, 40))
+                .willReturn(Flux.just(game));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/games/organize/stream")
+                        .queryParam("name", "game")
+                        .queryParam("page", 3)
+                        .queryParam("limit", 40)
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(GameResponseDto.class)
+                .value(list -> assertEquals("Streamed Game", list.get(0).getName()));
+    }
+
+    @Test
+    @DisplayName("Should clamp out-of-range paging parameters")
+    void shouldClampPaging() {
+        given(gameService.organizeByNameReactive("game", 1000, 100))
+                .willReturn(Flux.empty());
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/games/organize")
+                        .queryParam("name", "game")
+                        .queryParam("page", 858993459)
+                        .queryParam("limit", 500)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(GameResponseDto.class)
+                .hasSize(0);
+    }
+}
@@ -0,0 +1,88 @@
+package com.gameorganizer.api;
+
+import com.gameorganizer.infra.image.Thumbnail;
+import com.gameorganizer.infra.image.ThumbnailCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ImageController.class)
+class ImageControllerTest {
+
+    private static final String IMAGE_URL = "https://media.rawg.io/media/games/618/618c.jpg";
+    private static final String ETAG = "\"abc123\"";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ThumbnailCache thumbnailCache;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should serve cached thumbnail with long-lived cache headers and ETag")
+    void shouldServeThumbnail() throws IOException {
+        Path file = Files.write(tempDir.resolve("thumb.jpg"), new byte[]{1, 2, 3});
+        when(thumbnailCache.isAllowed(IMAGE_URL)).thenReturn(true);
+        when(thumbnailCache.etagFor(IMAGE_URL, 320)).thenReturn(ETAG);
+        when(thumbnailCache.getThumbnail(IMAGE_URL, 320)).thenReturn(Mono.just(new Thumbnail(file, ETAG)));
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/images/thumbnail")
+                        .queryParam("url", "{url}")
+                        .queryParam("w", 320)
+                        .build(IMAGE_URL))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.IMAGE_JPEG)
+                .expectHeader().valueEquals("ETag", ETAG)
+                .expectHeader().valueEquals("Cache-Control", "max-age=31536000, public, immutable")
+                .expectBody(byte[].class).isEqualTo(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without touching the cache when ETag matches")
+    void shouldReturnNotModified() {
+        when(thumbnailCache.isAllowed(IMAGE_URL)).thenReturn(true);
+        when(thumbnailCache.etagFor(IMAGE_URL, 320)).thenReturn(ETAG);
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/images/thumbnail")
+                        .queryParam("url", "{url}")
+                        .build(IMAGE_URL))
+                .header("If-None-Match", ETAG)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        verify(thumbnailCache, never()).getThumbnail(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject images from hosts outside the allow list")
+    void shouldRejectUnknownHost() {
+        when(thumbnailCache.isAllowed("https://evil.example/x.jpg")).thenReturn(false);
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/images/thumbnail")
+                        .queryParam("url", "{url}")
+                        .build("https://evil.example/x.jpg"))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
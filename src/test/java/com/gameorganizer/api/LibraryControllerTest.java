@@ -1,7 +1,11 @@
 package com.gameorganizer.api;
 
+import com.gameorganizer.api.dto.LibraryStatsDto;
+import com.gameorganizer.domain.LibraryStatsService;
+import com.gameorganizer.domain.LibraryStatsService.Snapshot;
 import com.gameorganizer.domain.model.UserGame;
 import com.gameorganizer.domain.repository.UserGameRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,10 +17,13 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @WebFluxTest(LibraryController.class)
@@ -28,6 +35,14 @@ class LibraryControllerTest {
     @MockBean
     private UserGameRepository repository;
 
+    @MockBean
+    private LibraryStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        when(statsService.trackChange(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Test
     @DisplayName("Should add game to library if not exists")
     void shouldAddGameToLibrary() {
@@ -47,6 +62,77 @@ class LibraryControllerTest {
                 .value(g -> assertEquals("Test Game", g.getTitle()));
 
         verify(repository, times(1)).save(any(UserGame.class));
+        verify(statsService).recordChange(isNull(), any(Snapshot.class));
+    }
+
+    @Test
+    @DisplayName("Should record previous and new state when updating an existing game")
+    void shouldRecordStatsOnUpdate() {
+        UserGame existing = new UserGame();
+        existing.setId(1L);
+        existing.setRawgId(100);
+        existing.setGameStatus("BACKLOG");
+        existing.setRating(0);
+        existing.setGenres("RPG");
+
+        UserGame update = new UserGame();
+        update.setRawgId(100);
+        update.setGameStatus("COMPLETED");
+        update.setRating(5);
+
+        when(repository.findByRawgId(100)).thenReturn(Mono.just(existing));
+        when(repository.save(any(UserGame.class))).thenAnswer(i -> Mono.just(i.getArgument(0)));
+
+        webTestClient.post()
+                .uri("/api/library")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(statsService).recordChange(
+                new Snapshot("BACKLOG", 0, Set.of("RPG")),
+                new Snapshot("COMPLETED", 5, Set.of("RPG")));
+    }
+
+    @Test
+    @DisplayName("Should record removal in stats when deleting a game")
+    void shouldRecordStatsOnDelete() {
+        UserGame game = new UserGame();
+        game.setId(3L);
+        game.setGameStatus("DROPPED");
+        game.setRating(2);
+
+        when(repository.findById(3L)).thenReturn(Mono.just(game));
+        when(repository.deleteById(3L)).thenReturn(Mono.empty());
+
+        webTestClient.delete()
+                .uri("/api/library/3")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(repository).deleteById(3L);
+        verify(statsService).recordChange(new Snapshot("DROPPED", 2, Set.of()), null);
+    }
+
+    @Test
+    @DisplayName("Should serve stats from the in-memory aggregate")
+    void shouldReturnStats() {
+        LibraryStatsDto stats = new LibraryStatsDto();
+        stats.setTotalGames(4);
+        stats.setCountsByStatus(Map.of("PLAYING", 4L));
+        when(statsService.getStats()).thenReturn(stats);
+
+        webTestClient.get()
+                .uri("/api/library/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LibraryStatsDto.class)
+                .value(dto -> {
+                    assertEquals(4, dto.getTotalGames());
+                    assertEquals(4L, dto.getCountsByStatus().get("PLAYING"));
+                });
+        verify(repository, never()).findAll();
     }
 
     @Test
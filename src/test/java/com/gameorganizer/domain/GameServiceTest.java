@@ -2,21 +2,26 @@ package com.gameorganizer.domain;
 
 import com.gameorganizer.api.dto.GameResponseDto;
 import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.port.GameCatalogPort;
 import com.gameorganizer.domain.port.GameEnrichmentPort;
 import com.gameorganizer.domain.port.GameSearchPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,20 +30,34 @@ class GameServiceTest {
     @Mock
     private GameSearchPort searchPort;
 
+    @Mock
+    private GameSearchPort librarySearchPort;
+
     @Mock
     private GameEnrichmentPort enrichmentPort;
 
-    @InjectMocks
+    @Mock
+    private GameCatalogPort catalogPort;
+
     private GameService gameService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(searchPort.timeout()).thenReturn(Duration.ofSeconds(1));
+        lenient().when(librarySearchPort.timeout()).thenReturn(Duration.ofSeconds(1));
+        gameService = new GameService(List.of(searchPort, librarySearchPort), enrichmentPort, catalogPort, 3);
+    }
+
     @Test
     @DisplayName("Should orchestrate search and enrichment correctly")
     void shouldOrganizeGameByName() {
         String query = "Witcher";
 
         Game rawGame = new Game(1, "The Witcher", 95, "2015", "img.jpg", List.of("RPG"), null, 123);
-        when(searchPort.searchGamesByName(query))
+        when(searchPort.searchGamesByName(query, 1, 15))
                 .thenReturn(Flux.just(rawGame));
+        when(librarySearchPort.searchGamesByName(query, 1, 15))
+                .thenReturn(Flux.empty());
         when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
                 .thenAnswer(invocation -> {
                     GameResponseDto dto = invocation.getArgument(0);
@@ -58,7 +77,9 @@ class GameServiceTest {
     @Test
     @DisplayName("Should return empty flux when search yields no results")
     void shouldReturnEmptyWhenNoResults() {
-        when(searchPort.searchGamesByName("Unknown"))
+        when(searchPort.searchGamesByName("Unknown", 1, 15))
+                .thenReturn(Flux.empty());
+        when(librarySearchPort.searchGamesByName("Unknown", 1, 15))
                 .thenReturn(Flux.empty());
 
         Flux<GameResponseDto> result = gameService.organizeByNameReactive("Unknown");
@@ -67,4 +88,157 @@ class GameServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should merge duplicates across sources keeping the best data per game")
+    void shouldMergeResultsFromAllSources() {
+        Game remoteGame = new Game(1, "The Witcher 3: Wild Hunt", 92, "2015", null, List.of("RPG"), null, 292030);
+        Game remoteOnly = new Game(2, "Cyberpunk 2077", 86, "2020", "cp.jpg", List.of("RPG"), null, 1091500);
+        Game libraryGame = new Game(1, "The Witcher 3: Wild Hunt", null, null, "w3.jpg", List.of("RPG", "Action"), null, null);
+        Game libraryByTitle = new Game(null, "the witcher 3 - wild hunt", null, null, null, List.of(), null, null);
+
+        when(searchPort.searchGamesByName("witcher", 1, 15))
+                .thenReturn(Flux.just(remoteGame, remoteOnly).delaySubscription(Duration.ofMillis(50)));
+        when(librarySearchPort.searchGamesByName("witcher", 1, 15))
+                .thenReturn(Flux.just(libraryGame, libraryByTitle));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(gameService.organizeByNameReactive("witcher").collectList())
+                .expectNextMatches(list -> list.size() == 2
+                        && list.get(0).getRawgId() == 1
+                        && list.get(0).getMetacritic() == 92
+                        && list.get(0).getBackgroundImage().equals("w3.jpg")
+                        && list.get(0).getGenres().equals(List.of("RPG"))
+                        && list.get(0).getSteamAppid() == 292030
+                        && list.get(1).getRawgId() == 2)
+                .verifyComplete();
+        verify(catalogPort).remember(remoteOnly);
+    }
+
+    @Test
+    @DisplayName("Should keep results from fast sources when a slow source times out")
+    void shouldIgnoreSourceThatTimesOut() {
+        when(searchPort.timeout()).thenReturn(Duration.ofMillis(50));
+        Game libraryGame = new Game(7, "Hades", null, null, "hades.jpg", List.of("Roguelike"), null, null);
+
+        when(searchPort.searchGamesByName("hades", 1, 15))
+                .thenReturn(Flux.<Game>never());
+        when(librarySearchPort.searchGamesByName("hades", 1, 15))
+                .thenReturn(Flux.just(libraryGame));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(gameService.organizeByNameReactive("hades"))
+                .expectNextMatches(dto -> dto.getName().equals("Hades"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should emit library hits immediately and the improved entry once the remote source answers")
+    void shouldEmitLocalResultsBeforeSlowRemoteSource() {
+        Game libraryGame = new Game(1, "Hollow Knight", null, null, "hk.jpg", List.of("Metroidvania"), null, null);
+        Game remoteGame = new Game(1, "Hollow Knight", 87, "2017", null, List.of("Action"), null, 367520);
+
+        when(searchPort.searchGamesByName("hollow", 1, 15))
+                .thenReturn(Flux.just(remoteGame).delaySubscription(Duration.ofMillis(800)));
+        when(librarySearchPort.searchGamesByName("hollow", 1, 15))
+                .thenReturn(Flux.just(libraryGame));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.withVirtualTime(() -> gameService.streamUpdatesByNameReactive("hollow", 1, 15))
+                .expectSubscription()
+                .expectNextMatches(dto -> dto.getMetacritic() == null && dto.getBackgroundImage().equals("hk.jpg"))
+                .expectNoEvent(Duration.ofMillis(700))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNextMatches(dto -> dto.getMetacritic() == 87
+                        && dto.getBackgroundImage().equals("hk.jpg")
+                        && dto.getSteamAppid() == 367520)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream results of the first remote page before the next page arrives")
+    void shouldStreamRemotePagesAsTheyArrive() {
+        Game pageOne = new Game(1, "Portal", 90, "2007", null, List.of(), null, null);
+        Game pageTwo = new Game(2, "Portal 2", 95, "2011", null, List.of(), null, null);
+
+        when(searchPort.searchGamesByName("portal", 1, 15))
+                .thenReturn(Flux.concat(Flux.just(pageOne), Flux.just(pageTwo).delaySubscription(Duration.ofMillis(500))));
+        when(librarySearchPort.searchGamesByName("portal", 1, 15))
+                .thenReturn(Flux.empty());
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.withVirtualTime(() -> gameService.streamUpdatesByNameReactive("portal", 1, 15))
+                .expectSubscription()
+                .expectNextMatches(dto -> dto.getName().equals("Portal"))
+                .expectNoEvent(Duration.ofMillis(400))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNextMatches(dto -> dto.getName().equals("Portal 2"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should page only the primary source and keep local-only games off later pages")
+    void shouldForwardPagingAndApplyLimit() {
+        Game first = new Game(1, "Zelda", 90, "2017", null, List.of(), null, null);
+        Game second = new Game(2, "Zelda II", 70, "1987", null, List.of(), null, null);
+
+        when(searchPort.searchGamesByName("zelda", 2, 1))
+                .thenReturn(Flux.just(first));
+        when(librarySearchPort.searchGamesByName("zelda", 1, 1))
+                .thenReturn(Flux.just(second));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(gameService.organizeByNameReactive("zelda", 2, 1))
+                .expectNextMatches(dto -> dto.getName().equals("Zelda"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep the primary ranking when local sources alone match more than the limit")
+    void shouldNotLetLocalSourcesPushOutPrimaryResults() {
+        List<Game> localGames = IntStream.range(100, 120)
+                .mapToObj(id -> new Game(id, "The Local " + id, null, null, null, List.of(), null, null))
+                .toList();
+        List<Game> remoteGames = IntStream.range(1, 16)
+                .mapToObj(id -> new Game(id, "The Remote " + id, 80, "2020", null, List.of(), null, null))
+                .toList();
+
+        when(searchPort.searchGamesByName("the", 1, 15))
+                .thenReturn(Flux.fromIterable(remoteGames).delaySubscription(Duration.ofMillis(50)));
+        when(librarySearchPort.searchGamesByName("the", 1, 15))
+                .thenReturn(Flux.fromIterable(localGames));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(gameService.streamUpdatesByNameReactive("the", 1, 15).collectList())
+                .expectNextMatches(list -> list.size() == 15
+                        && list.stream().filter(dto -> dto.getRawgId() >= 100).count() == 3
+                        && list.stream().filter(dto -> dto.getRawgId() < 100).map(GameResponseDto::getRawgId).toList()
+                        .equals(IntStream.rangeClosed(1, 12).boxed().toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should give a local game a primary slot once the primary source returns it")
+    void shouldAdmitQueuedLocalGameWhenPrimaryMatchesIt() {
+        gameService = new GameService(List.of(searchPort, librarySearchPort), enrichmentPort, catalogPort, 0);
+        Game libraryGame = new Game(5, "Celeste", null, null, "celeste.jpg", List.of(), null, null);
+        Game remoteGame = new Game(5, "Celeste", 94, "2018", null, List.of(), null, null);
+
+        when(searchPort.searchGamesByName("celeste", 1, 15))
+                .thenReturn(Flux.just(remoteGame).delaySubscription(Duration.ofMillis(50)));
+        when(librarySearchPort.searchGamesByName("celeste", 1, 15))
+                .thenReturn(Flux.just(libraryGame));
+        when(enrichmentPort.enrich(any(GameResponseDto.class), any(Game.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(gameService.streamUpdatesByNameReactive("celeste", 1, 15))
+                .expectNextMatches(dto -> dto.getMetacritic() == 94 && dto.getBackgroundImage().equals("celeste.jpg"))
+                .verifyComplete();
+    }
+}
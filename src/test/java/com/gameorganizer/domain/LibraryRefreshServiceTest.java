@@ -0,0 +1,197 @@
+package com.gameorganizer.domain;
+
+import com.gameorganizer.domain.model.Game;
+import com.gameorganizer.domain.model.JobCheckpoint;
+import com.gameorganizer.domain.model.UserGame;
+import com.gameorganizer.domain.port.GameSearchPort;
+import com.gameorganizer.domain.repository.JobCheckpointRepository;
+import com.gameorganizer.domain.repository.UserGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LibraryRefreshServiceTest {
+
+    @Mock
+    private UserGameRepository repository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private GameSearchPort searchPort;
+
+    @Mock
+    private LibraryStatsService statsService;
+
+    private LibraryRefreshService refreshService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(checkpointRepository.findById(anyString())).thenReturn(Mono.empty());
+        lenient().when(checkpointRepository.saveLastId(anyString(), anyLong())).thenReturn(Mono.just(1));
+        lenient().when(statsService.trackChange(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        refreshService = new LibraryRefreshService(repository, checkpointRepository, searchPort, statsService, 2, 10, Duration.ZERO, true);
+    }
+
+    @Test
+    @DisplayName("Should save only games whose upstream data changed")
+    void shouldUpdateOnlyChangedGames() {
+        UserGame stale = userGame(1L, 10, "Old Title", "old.jpg", "RPG");
+        UserGame fresh = userGame(2L, 20, "Same Title", "same.jpg", "Action");
+
+        when(repository.findBatchAfter(0L, 2)).thenReturn(Flux.just(stale, fresh));
+        when(repository.findBatchAfter(2L, 2)).thenReturn(Flux.empty());
+        when(searchPort.findGameById(10))
+                .thenReturn(Mono.just(new Game(10, "New Title", 90, "2020", "new.jpg", List.of("RPG", "Action"), null, null)));
+        when(searchPort.findGameById(20))
+                .thenReturn(Mono.just(new Game(20, "Same Title", 80, "2019", "same.jpg", List.of("Action"), null, null)));
+        when(repository.updateMetadata(anyLong(), anyString(), anyString(), anyString())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(refreshService.refresh())
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(repository, times(1)).updateMetadata(anyLong(), anyString(), anyString(), anyString());
+        verify(repository).updateMetadata(1L, "New Title", "new.jpg", "RPG, Action");
+        assertEquals(0L, refreshService.getCheckpoint());
+    }
+
+    @Test
+    @DisplayName("Should record the before and after snapshot of refreshed games in the stats")
+    void shouldRecordStatsChange() {
+        UserGame stale = userGame(1L, 10, "Old Title", "old.jpg", "RPG");
+        stale.setGameStatus("COMPLETED");
+        stale.setRating(5);
+
+        when(repository.findBatchAfter(0L, 2)).thenReturn(Flux.just(stale));
+        when(searchPort.findGameById(10))
+                .thenReturn(Mono.just(new Game(10, "Old Title", 90, "2020", "old.jpg", List.of("RPG", "Action"), null, null)));
+        when(repository.updateMetadata(1L, "Old Title", "old.jpg", "RPG, Action")).thenReturn(Mono.just(1));
+
+        StepVerifier.create(refreshService.refresh())
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(statsService).recordChange(
+                new LibraryStatsService.Snapshot("COMPLETED", 5, Set.of("RPG")),
+                new LibraryStatsService.Snapshot("COMPLETED", 5, Set.of("RPG", "Action")));
+    }
+
+    @Test
+    @DisplayName("Should keep checkpoint and resume from it when the batch limit is reached")
+    void shouldResumeFromCheckpoint() {
+        refreshService = new LibraryRefreshService(repository, checkpointRepository, searchPort, statsService, 1, 1, Duration.ZERO, true);
+        UserGame first = userGame(5L, 50, "First", "a.jpg", "RPG");
+        UserGame second = userGame(7L, 70, "Second", "b.jpg", "RPG");
+
+        when(repository.findBatchAfter(0L, 1)).thenReturn(Flux.just(first));
+        when(repository.findBatchAfter(5L, 1)).thenReturn(Flux.just(second));
+        when(searchPort.findGameById(anyInt())).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshService.refresh()).expectNext(0).verifyComplete();
+        assertEquals(5L, refreshService.getCheckpoint());
+        verify(checkpointRepository).saveLastId("library-refresh", 5L);
+
+        StepVerifier.create(refreshService.refresh()).expectNext(0).verifyComplete();
+        assertEquals(7L, refreshService.getCheckpoint());
+        verify(repository, never()).save(any(UserGame.class));
+        verify(statsService, never()).recordChange(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resume from the stored checkpoint after a restart")
+    void shouldResumeFromStoredCheckpoint() {
+        JobCheckpoint stored = new JobCheckpoint();
+        stored.setName("library-refresh");
+        stored.setLastId(40L);
+        when(checkpointRepository.findById("library-refresh")).thenReturn(Mono.just(stored));
+        when(repository.findBatchAfter(40L, 2)).thenReturn(Flux.just(userGame(41L, null, "Last", "z.jpg", "RPG")));
+
+        StepVerifier.create(refreshService.refresh()).expectNext(0).verifyComplete();
+
+        verify(repository, never()).findBatchAfter(eq(0L), anyInt());
+        verify(checkpointRepository).saveLastId("library-refresh", 0L);
+        assertEquals(0L, refreshService.getCheckpoint());
+    }
+
+    @Test
+    @DisplayName("Should keep refreshing when the checkpoint table is unavailable")
+    void shouldFallBackToMemoryCheckpoint() {
+        when(checkpointRepository.findById("library-refresh")).thenReturn(Mono.error(new IllegalStateException("db down")));
+        when(checkpointRepository.saveLastId(anyString(), anyLong())).thenReturn(Mono.error(new IllegalStateException("db down")));
+        when(repository.findBatchAfter(0L, 2)).thenReturn(Flux.empty());
+
+        StepVerifier.create(refreshService.refresh()).expectNext(0).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should write only metadata columns, leaving status, rating and list order untouched")
+    void shouldNotOverwriteUserFields() {
+        UserGame stale = userGame(1L, 10, "Old Title", "old.jpg", "RPG");
+        stale.setGameStatus("PLAYING");
+        stale.setRating(4);
+        stale.setListOrder(3);
+
+        when(repository.findBatchAfter(0L, 2)).thenReturn(Flux.just(stale));
+        when(searchPort.findGameById(10))
+                .thenReturn(Mono.just(new Game(10, "New Title", 90, "2020", "new.jpg", List.of("RPG"), null, null)));
+        when(repository.updateMetadata(1L, "New Title", "new.jpg", "RPG")).thenReturn(Mono.just(1));
+
+        StepVerifier.create(refreshService.refresh())
+                .expectNext(1)
+                .verifyComplete();
+
+        verify(repository, never()).save(any(UserGame.class));
+        verify(repository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should only take the running guard when the refresh is subscribed")
+    void shouldGuardOnSubscription() {
+        when(repository.findBatchAfter(0L, 2)).thenReturn(Flux.empty());
+
+        refreshService.refresh();
+
+        Mono<Integer> refresh = refreshService.refresh();
+        StepVerifier.create(refresh).expectNext(0).verifyComplete();
+        StepVerifier.create(refresh).expectNext(0).verifyComplete();
+        verify(repository, times(2)).findBatchAfter(0L, 2);
+    }
+
+    @Test
+    @DisplayName("Should skip the scheduled run when the refresh is disabled")
+    void shouldSkipScheduledRefreshWhenDisabled() {
+        refreshService = new LibraryRefreshService(repository, checkpointRepository, searchPort, statsService, 2, 10, Duration.ZERO, false);
+
+        StepVerifier.create(refreshService.scheduledRefresh()).verifyComplete();
+
+        verifyNoInteractions(repository, checkpointRepository, searchPort);
+    }
+
+    private UserGame userGame(Long id, Integer rawgId, String title, String imageUrl, String genres) {
+        UserGame game = new UserGame();
+        game.setId(id);
+        game.setRawgId(rawgId);
+        game.setTitle(title);
+        game.setImageUrl(imageUrl);
+        game.setGenres(genres);
+        return game;
+    }
+}
@@ -0,0 +1,157 @@
+package com.gameorganizer.domain;
+
+import com.gameorganizer.api.dto.LibraryStatsDto;
+import com.gameorganizer.domain.LibraryStatsService.Snapshot;
+import com.gameorganizer.domain.model.GenreRatingCount;
+import com.gameorganizer.domain.model.StatusRatingCount;
+import com.gameorganizer.domain.repository.UserGameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LibraryStatsServiceTest {
+
+    @Mock
+    private UserGameRepository repository;
+
+    private LibraryStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new LibraryStatsService(repository, 2, true);
+    }
+
+    @Test
+    @DisplayName("Should seed the aggregate from grouped queries")
+    void shouldSeedFromDatabase() {
+        when(repository.countByStatusAndRating()).thenReturn(Flux.just(
+                new StatusRatingCount("COMPLETED", 5, 2L),
+                new StatusRatingCount("COMPLETED", 3, 1L),
+                new StatusRatingCount("BACKLOG", 0, 3L)));
+        when(repository.countByGenreAndRating()).thenReturn(Flux.just(
+                new GenreRatingCount("RPG", 5, 2L),
+                new GenreRatingCount("RPG", 0, 1L),
+                new GenreRatingCount("Action", 3, 1L),
+                new GenreRatingCount("Indie", 0, 1L)));
+
+        StepVerifier.create(statsService.reconcile()).verifyComplete();
+
+        LibraryStatsDto stats = statsService.getStats();
+        assertEquals(6, stats.getTotalGames());
+        assertEquals(Map.of("COMPLETED", 3L, "BACKLOG", 3L), stats.getCountsByStatus());
+        assertEquals(13.0 / 3, stats.getAverageRating(), 0.0001);
+        assertEquals(Map.of(0, 3L, 3, 1L, 5, 2L), stats.getRatingHistogram());
+        assertEquals(Map.of("RPG", 5.0, "Action", 3.0), stats.getAverageRatingByGenre());
+        assertEquals(List.of("RPG", "Action"), List.copyOf(stats.getTopGenres().keySet()));
+    }
+
+    @Test
+    @DisplayName("Should keep the current aggregate when both grouped queries fail")
+    void shouldKeepAggregateWhenReconcileFails() {
+        List<Throwable> dropped = new CopyOnWriteArrayList<>();
+        Hooks.onErrorDropped(dropped::add);
+        try {
+            statsService.recordChange(null, new Snapshot("PLAYING", 2, Set.of("RPG")));
+            when(repository.countByStatusAndRating()).thenReturn(Flux.error(new IllegalStateException("db down")));
+            when(repository.countByGenreAndRating()).thenReturn(Flux.error(new IllegalStateException("db down")));
+
+            StepVerifier.create(statsService.reconcile()).verifyComplete();
+
+            assertEquals(1, statsService.getStats().getTotalGames());
+            assertTrue(dropped.isEmpty());
+        } finally {
+            Hooks.resetOnErrorDropped();
+        }
+    }
+
+    @Test
+    @DisplayName("Should update counts incrementally on add, change and removal")
+    void shouldApplyIncrementalChanges() {
+        Snapshot added = new Snapshot("BACKLOG", 0, Set.of("RPG", "Action"));
+        Snapshot rated = new Snapshot("COMPLETED", 4, Set.of("RPG", "Action"));
+
+        statsService.recordChange(null, added);
+        statsService.recordChange(null, new Snapshot("PLAYING", 2, Set.of("RPG")));
+        statsService.recordChange(added, rated);
+
+        LibraryStatsDto stats = statsService.getStats();
+        assertEquals(2, stats.getTotalGames());
+        assertEquals(Map.of("COMPLETED", 1L, "PLAYING", 1L), stats.getCountsByStatus());
+        assertEquals(3.0, stats.getAverageRating(), 0.0001);
+        assertEquals(Map.of("RPG", 3.0, "Action", 4.0), stats.getAverageRatingByGenre());
+
+        statsService.recordChange(rated, null);
+        statsService.recordChange(new Snapshot("PLAYING", 2, Set.of("RPG")), null);
+
+        stats = statsService.getStats();
+        assertEquals(0, stats.getTotalGames());
+        assertEquals(Map.of(), stats.getCountsByStatus());
+        assertNull(stats.getAverageRating());
+        assertEquals(Map.of(), stats.getTopGenres());
+    }
+
+    @Test
+    @DisplayName("Should keep the incremental aggregate when a change is recorded while reconciling")
+    void shouldNotSwapWhenChangedDuringReconcile() {
+        Snapshot added = new Snapshot("PLAYING", 2, Set.of("RPG"));
+        when(repository.countByStatusAndRating()).thenReturn(Flux.defer(() -> {
+            statsService.recordChange(null, added);
+            return Flux.<StatusRatingCount>empty();
+        }));
+        when(repository.countByGenreAndRating()).thenReturn(Flux.empty());
+
+        StepVerifier.create(statsService.reconcile()).verifyComplete();
+
+        assertEquals(1, statsService.getStats().getTotalGames());
+    }
+
+    @Test
+    @DisplayName("Should not count a write twice when it commits before the queries and records after them")
+    void shouldNotSwapWhileWriteInFlight() {
+        Sinks.One<Snapshot> write = Sinks.one();
+        StepVerifier.create(statsService.trackChange(write.asMono()
+                        .doOnNext(snapshot -> statsService.recordChange(null, snapshot))))
+                .then(() -> {
+                    when(repository.countByStatusAndRating()).thenReturn(Flux.just(new StatusRatingCount("PLAYING", 2, 1L)));
+                    when(repository.countByGenreAndRating()).thenReturn(Flux.just(new GenreRatingCount("RPG", 2, 1L)));
+                    StepVerifier.create(statsService.reconcile()).verifyComplete();
+                    write.tryEmitValue(new Snapshot("PLAYING", 2, Set.of("RPG")));
+                })
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, statsService.getStats().getTotalGames());
+
+        StepVerifier.create(statsService.reconcile()).verifyComplete();
+        assertEquals(1, statsService.getStats().getTotalGames());
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when scheduled reconciles are disabled")
+    void shouldSkipScheduledReconcileWhenDisabled() {
+        statsService = new LibraryStatsService(repository, 2, false);
+
+        StepVerifier.create(statsService.scheduledReconcile()).verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gameorganizer.infra.catalog;
+
+import com.gameorganizer.domain.model.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+class LocalGameCatalogAdapterTest {
+
+    private final LocalGameCatalogAdapter catalog = new LocalGameCatalogAdapter(100, Duration.ofMillis(300));
+
+    @Test
+    @DisplayName("Should order matches by relevance instead of access order")
+    void shouldOrderMatchesByRelevance() {
+        catalog.remember(game(1, "Return to Portal Island"));
+        catalog.remember(game(2, "Teleportals"));
+        catalog.remember(game(3, "Portal 2"));
+        catalog.remember(game(4, "Portal"));
+
+        StepVerifier.create(catalog.searchGamesByName("portal").map(Game::name).collectList())
+                .expectNext(List.of("Portal", "Portal 2", "Return to Portal Island", "Teleportals"))
+                .verifyComplete();
+    }
+
+    private static Game game(int id, String name) {
+        return new Game(id, name, null, null, null, List.of(), null, null);
+    }
+}
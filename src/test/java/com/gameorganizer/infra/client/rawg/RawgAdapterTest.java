@@ -0,0 +1,142 @@
+package com.gameorganizer.infra.client.rawg;
+
+import com.gameorganizer.domain.model.Game;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RawgAdapterTest {
+
+    private final List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Should map the requested window onto RAWG pages without dropping results")
+    void shouldFetchPageWindow() {
+        RawgAdapter adapter = adapter(1000, Set.of(), page -> Duration.ZERO, 4);
+
+        StepVerifier.create(adapter.searchGamesByName("game", 2, 50).map(Game::id).collectList())
+                .expectNext(IntStream.range(50, 100).boxed().toList())
+                .verifyComplete();
+        assertEquals(List.of(2, 3), requestedPages);
+    }
+
+    @Test
+    @DisplayName("Should use the limit as page size when it fits in a single RAWG page")
+    void shouldFetchSinglePageForSmallLimits() {
+        RawgAdapter adapter = adapter(1000, Set.of(), page -> Duration.ZERO, 4);
+
+        StepVerifier.create(adapter.searchGamesByName("game", 3, 15).map(Game::id).collectList())
+                .expectNext(IntStream.range(30, 45).boxed().toList())
+                .verifyComplete();
+        assertEquals(List.of(3), requestedPages);
+    }
+
+    @Test
+    @DisplayName("Should never fetch more than the configured number of pages")
+    void shouldCapPages() {
+        RawgAdapter adapter = adapter(1000, Set.of(), page -> Duration.ZERO, 2);
+
+        StepVerifier.create(adapter.searchGamesByName("game", 1, 100).count())
+                .expectNext(80L)
+                .verifyComplete();
+        assertEquals(List.of(1, 2), requestedPages);
+    }
+
+    @Test
+    @DisplayName("Should stop at the page without a next link")
+    void shouldStopOnLastPage() {
+        RawgAdapter adapter = adapter(50, Set.of(), page -> Duration.ZERO, 4);
+
+        StepVerifier.create(adapter.searchGamesByName("game", 1, 100).count())
+                .expectNext(50L)
+                .verifyComplete();
+        assertFalse(requestedPages.contains(4));
+    }
+
+    @Test
+    @DisplayName("Should keep results before a failing page and not shift later ones into its place")
+    void shouldTruncateAtFailingPage() {
+        RawgAdapter adapter = adapter(1000, Set.of(2), page -> Duration.ZERO, 4);
+
+        StepVerifier.create(adapter.searchGamesByName("game", 1, 100).map(Game::id).collectList())
+                .expectNext(IntStream.range(0, 40).boxed().toList())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should emit the first page while the next one is still in flight")
+    void shouldStreamFirstPageBeforeSecondArrives() {
+        StepVerifier.withVirtualTime(() -> adapter(1000, Set.of(), page -> Duration.ofSeconds(page == 1 ? 0 : 2), 4)
+                        .searchGamesByName("game", 1, 80))
+                .expectSubscription()
+                .expectNextCount(40)
+                .expectNoEvent(Duration.ofSeconds(1))
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNextCount(40)
+                .verifyComplete();
+        assertEquals(Set.of(1, 2), Set.copyOf(requestedPages));
+    }
+
+    @Test
+    @DisplayName("Should complete empty instead of throwing when the page window overflows")
+    void shouldReturnEmptyForPagesOutOfRange() {
+        RawgAdapter adapter = adapter(1000, Set.of(), page -> Duration.ZERO, 4);
+
+        StepVerifier.create(adapter.searchGamesByName("x", 858993459, 100))
+                .verifyComplete();
+        assertTrue(requestedPages.isEmpty());
+    }
+
+    private RawgAdapter adapter(int total, Set<Integer> failingPages, Function<Integer, Duration> latency, int maxPages) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> respond(request, total, failingPages, latency))
+                .build();
+        return new RawgAdapter(webClient, "https://rawg.test/api/games", "", Duration.ofSeconds(5), 40, maxPages, 2);
+    }
+
+    private Mono<ClientResponse> respond(ClientRequest request, int total, Set<Integer> failingPages,
+                                         Function<Integer, Duration> latency) {
+        var params = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams();
+        int page = Integer.parseInt(params.getFirst("page"));
+        int pageSize = Integer.parseInt(params.getFirst("page_size"));
+        requestedPages.add(page);
+
+        ClientResponse response;
+        if (failingPages.contains(page)) {
+            response = ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } else {
+            int from = (page - 1) * pageSize;
+            int to = Math.min(total, from + pageSize);
+            String results = IntStream.range(from, to)
+                    .mapToObj(id -> "{\"id\":" + id + ",\"name\":\"Game " + id + "\"}")
+                    .collect(Collectors.joining(","));
+            String next = to < total ? "\"https://rawg.test/api/games?page=" + (page + 1) + "\"" : "null";
+            response = ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"count\":" + total + ",\"next\":" + next + ",\"results\":[" + results + "]}")
+                    .build();
+        }
+        Duration delay = latency.apply(page);
+        return delay.isZero() ? Mono.just(response) : Mono.delay(delay).thenReturn(response);
+    }
+}
@@ -0,0 +1,193 @@
+package com.gameorganizer.infra.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailCacheTest {
+
+    private static final String IMAGE_A = "https://media.rawg.io/media/games/a.jpg";
+    private static final String IMAGE_B = "https://media.rawg.io/media/games/b.jpg";
+    private static final String IMAGE_C = "https://media.rawg.io/media/games/c.jpg";
+
+    @TempDir
+    Path cacheDir;
+
+    @TempDir
+    Path scratchDir;
+
+    private final AtomicInteger downloads = new AtomicInteger();
+    private byte[] sourceImage;
+    private Duration downloadLatency = Duration.ZERO;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sourceImage = jpeg(1000, 500);
+    }
+
+    @Test
+    @DisplayName("Should round requested widths up to the nearest bucket")
+    void shouldBucketWidths() {
+        assertEquals(160, ThumbnailCache.bucketFor(1));
+        assertEquals(160, ThumbnailCache.bucketFor(160));
+        assertEquals(320, ThumbnailCache.bucketFor(161));
+        assertEquals(640, ThumbnailCache.bucketFor(500));
+        assertEquals(640, ThumbnailCache.bucketFor(4000));
+    }
+
+    @Test
+    @DisplayName("Should scale the image down to the bucket width keeping the aspect ratio")
+    void shouldGenerateScaledThumbnail() throws IOException {
+        ThumbnailCache cache = cache(cacheDir, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        Thumbnail thumbnail = cache.getThumbnail(IMAGE_A, 300).block();
+
+        BufferedImage scaled = ImageIO.read(thumbnail.path().toFile());
+        assertEquals(320, scaled.getWidth());
+        assertEquals(160, scaled.getHeight());
+        assertEquals(cache.etagFor(IMAGE_A, 300), thumbnail.etag());
+        assertEquals(List.of(thumbnail.path()), listFiles(cacheDir));
+    }
+
+    @Test
+    @DisplayName("Should share one download between concurrent requests for the same thumbnail")
+    void shouldShareConcurrentDownloads() {
+        downloadLatency = Duration.ofMillis(200);
+        ThumbnailCache cache = cache(cacheDir, Long.MAX_VALUE, Long.MAX_VALUE);
+
+        StepVerifier.create(Mono.zip(cache.getThumbnail(IMAGE_A, 320), cache.getThumbnail(IMAGE_A, 320)))
+                .assertNext(pair -> assertEquals(pair.getT1().path(), pair.getT2().path()))
+                .verifyComplete();
+        assertEquals(1, downloads.get());
+
+        cache.getThumbnail(IMAGE_A, 320).block();
+        assertEquals(1, downloads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used thumbnail once the byte budget is exceeded")
+    void shouldEvictLeastRecentlyUsed() throws IOException {
+        long size = thumbnailSize();
+        ThumbnailCache cache = cache(cacheDir, size * 2 + size / 2, Long.MAX_VALUE);
+
+        Path a = cache.getThumbnail(IMAGE_A, 320).block().path();
+        Path b = cache.getThumbnail(IMAGE_B, 320).block().path();
+        cache.getThumbnail(IMAGE_A, 320).block();
+        Path c = cache.getThumbnail(IMAGE_C, 320).block().path();
+
+        assertTrue(Files.exists(a));
+        assertFalse(Files.exists(b));
+        assertTrue(Files.exists(c));
+        assertEquals(3, downloads.get());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from disk on startup and keep serving cached files")
+    void shouldRebuildIndexOnStartup() throws IOException {
+        long size = thumbnailSize();
+        ThumbnailCache first = cache(cacheDir, Long.MAX_VALUE, Long.MAX_VALUE);
+        first.getThumbnail(IMAGE_A, 320).block();
+        first.getThumbnail(IMAGE_B, 320).block();
+        first.getThumbnail(IMAGE_C, 320).block();
+        downloads.set(0);
+
+        ThumbnailCache restarted = cache(cacheDir, size * 2 + size / 2, Long.MAX_VALUE);
+
+        List<String> kept = Stream.of(IMAGE_A, IMAGE_B, IMAGE_C)
+                .filter(url -> Files.exists(cacheDir.resolve(restarted.etagFor(url, 320).replace("\"", "") + ".jpg")))
+                .toList();
+        assertEquals(2, kept.size());
+        assertEquals(2, listFiles(cacheDir).size());
+        for (String url : kept) {
+            restarted.getThumbnail(url, 320).block();
+        }
+        assertEquals(0, downloads.get());
+    }
+
+    @Test
+    @DisplayName("Should regenerate a thumbnail whose file disappeared from disk")
+    void shouldRegenerateMissingFile() throws IOException {
+        ThumbnailCache cache = cache(cacheDir, Long.MAX_VALUE, Long.MAX_VALUE);
+        Path path = cache.getThumbnail(IMAGE_A, 320).block().path();
+        Files.delete(path);
+
+        Thumbnail regenerated = cache.getThumbnail(IMAGE_A, 320).block();
+
+        assertTrue(Files.exists(regenerated.path()));
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    @DisplayName("Should reject downloads above the size limit without leaving files behind")
+    void shouldRejectOversizedDownloads() throws IOException {
+        ThumbnailCache cache = cache(cacheDir, Long.MAX_VALUE, 1024);
+
+        StepVerifier.create(cache.getThumbnail(IMAGE_A, 320))
+                .expectErrorMatches(e -> e.getMessage().contains("limite"))
+                .verify();
+        assertEquals(List.of(), listFiles(cacheDir));
+    }
+
+    private long thumbnailSize() throws IOException {
+        long size = Files.size(cache(scratchDir, Long.MAX_VALUE, Long.MAX_VALUE).getThumbnail(IMAGE_A, 320).block().path());
+        downloads.set(0);
+        return size;
+    }
+
+    private ThumbnailCache cache(Path dir, long maxBytes, long maxDownloadBytes) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    downloads.incrementAndGet();
+                    ClientResponse response = ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_JPEG_VALUE)
+                            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(sourceImage)))
+                            .build();
+                    return Mono.just(response).delayElement(downloadLatency);
+                })
+                .build();
+        return new ThumbnailCache(webClient, dir.toString(), maxBytes, List.of("media.rawg.io"),
+                maxDownloadBytes, Long.MAX_VALUE, Duration.ZERO);
+    }
+
+    private static List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}